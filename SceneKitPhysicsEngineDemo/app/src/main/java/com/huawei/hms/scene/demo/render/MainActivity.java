@@ -22,6 +22,7 @@ import androidx.appcompat.app.AppCompatActivity;
 import android.content.Intent;
 import android.os.Bundle;
 import android.view.View;
+import android.widget.Spinner;
 import android.widget.Toast;
 
 import com.huawei.hms.scene.common.base.error.exception.UpdateNeededException;
@@ -36,13 +37,19 @@ import com.huawei.hms.scene.sdk.render.SceneKit;
 public class MainActivity extends AppCompatActivity {
     private static final int REQ_CODE_UPDATE_SCENE_KIT = 10001;
     private static final int RES_CODE_UPDATE_SUCCESS = -1;
+    private static final String SCENE_KIT_STARTUP = "SceneKit";
+    private static final String PHASE_SCENE_KIT_INIT = "init";
+    private static final String PHASE_SCENE_KIT_REINIT = "init after update";
 
     private boolean initialized = false;
+    private Spinner settlingProfileSpinner;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_main);
+        settlingProfileSpinner = findViewById(R.id.spinner_settling_profile);
+        settlingProfileSpinner.setSelection(SettlingProfile.DEFAULT.ordinal());
     }
 
     /**
@@ -55,7 +62,7 @@ public class MainActivity extends AppCompatActivity {
             initializeSceneKit();
             return;
         }
-        startActivity(new Intent(this, PhysicsEngineSampleOneActivity.class));
+        startActivity(createSampleIntent(PhysicsEngineSampleOneActivity.class));
     }
 
     /**
@@ -68,7 +75,13 @@ public class MainActivity extends AppCompatActivity {
             initializeSceneKit();
             return;
         }
-        startActivity(new Intent(this, PhysicsEngineSampleTwoActivity.class));
+        startActivity(createSampleIntent(PhysicsEngineSampleTwoActivity.class));
+    }
+
+    private Intent createSampleIntent(Class<?> sampleActivityClass) {
+        SettlingProfile settlingProfile = SettlingProfile.values()[settlingProfileSpinner.getSelectedItemPosition()];
+        return new Intent(this, sampleActivityClass)
+            .putExtra(SettlingProfile.EXTRA_NAME, settlingProfile.name());
     }
 
     /**
@@ -82,6 +95,8 @@ public class MainActivity extends AppCompatActivity {
             .setAppId("${app_id}")
             .setGraphicsBackend(SceneKit.Property.GraphicsBackend.GLES)
             .build();
+        StartupTracer startupTracer = new StartupTracer(SCENE_KIT_STARTUP, new StartupLogger(), PHASE_SCENE_KIT_INIT);
+        startupTracer.begin(PHASE_SCENE_KIT_INIT);
         try {
             SceneKit.getInstance()
                 .setProperty(property)
@@ -93,6 +108,8 @@ public class MainActivity extends AppCompatActivity {
         } catch (Exception exception) {
             Toast.makeText(this,
                 "failed to initialize SceneKit: " + exception.getMessage(), Toast.LENGTH_SHORT).show();
+        } finally {
+            startupTracer.end(PHASE_SCENE_KIT_INIT);
         }
     }
 
@@ -101,6 +118,9 @@ public class MainActivity extends AppCompatActivity {
         super.onActivityResult(requestCode, resultCode, data);
         if (requestCode == REQ_CODE_UPDATE_SCENE_KIT
             && resultCode == RES_CODE_UPDATE_SUCCESS) {
+            StartupTracer startupTracer =
+                new StartupTracer(SCENE_KIT_STARTUP, new StartupLogger(), PHASE_SCENE_KIT_REINIT);
+            startupTracer.begin(PHASE_SCENE_KIT_REINIT);
             try {
                 SceneKit.getInstance()
                     .initializeSync(getApplicationContext());
@@ -109,6 +129,8 @@ public class MainActivity extends AppCompatActivity {
             } catch (Exception exception) {
                 Toast.makeText(this,
                     "failed to initialize SceneKit: " + exception.getMessage(), Toast.LENGTH_SHORT).show();
+            } finally {
+                startupTracer.end(PHASE_SCENE_KIT_REINIT);
             }
         }
     }
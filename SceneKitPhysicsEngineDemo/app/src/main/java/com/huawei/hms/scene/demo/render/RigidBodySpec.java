@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+/**
+ * RigidBodySpec, the parameters of a rigid body component.
+ * Parameters that are not set are left at the engine defaults, their getters return null.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public final class RigidBodySpec {
+    private final float mass;
+    private final Boolean kinematic;
+    private final Short group;
+    private final Short mask;
+    private final Float friction;
+    private final Float restitution;
+    private final Float linearDamping;
+    private final Float angularDamping;
+    private final Vec3 impulse;
+    private final Vec3 impulsePosition;
+
+    private RigidBodySpec(Builder builder) {
+        this.mass = builder.mass;
+        this.kinematic = builder.kinematic;
+        this.group = builder.group;
+        this.mask = builder.mask;
+        this.friction = builder.friction;
+        this.restitution = builder.restitution;
+        this.linearDamping = builder.linearDamping;
+        this.angularDamping = builder.angularDamping;
+        this.impulse = builder.impulse;
+        this.impulsePosition = builder.impulsePosition;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public float getMass() {
+        return mass;
+    }
+
+    public Boolean getKinematic() {
+        return kinematic;
+    }
+
+    public Short getGroup() {
+        return group;
+    }
+
+    public Short getMask() {
+        return mask;
+    }
+
+    public Float getFriction() {
+        return friction;
+    }
+
+    public Float getRestitution() {
+        return restitution;
+    }
+
+    public Float getLinearDamping() {
+        return linearDamping;
+    }
+
+    public Float getAngularDamping() {
+        return angularDamping;
+    }
+
+    public Vec3 getImpulse() {
+        return impulse;
+    }
+
+    public Vec3 getImpulsePosition() {
+        return impulsePosition;
+    }
+
+    /**
+     * Builder of RigidBodySpec.
+     */
+    public static final class Builder {
+        private float mass = 1f;
+        private Boolean kinematic;
+        private Short group;
+        private Short mask;
+        private Float friction;
+        private Float restitution;
+        private Float linearDamping;
+        private Float angularDamping;
+        private Vec3 impulse;
+        private Vec3 impulsePosition;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the mass, 0 makes the body static.
+         *
+         * @param mass Mass of the body.
+         * @return This builder.
+         */
+        public Builder setMass(float mass) {
+            this.mass = mass;
+            return this;
+        }
+
+        public Builder setKinematic(boolean kinematic) {
+            this.kinematic = kinematic;
+            return this;
+        }
+
+        public Builder setGroup(short group) {
+            this.group = group;
+            return this;
+        }
+
+        public Builder setMask(short mask) {
+            this.mask = mask;
+            return this;
+        }
+
+        public Builder setFriction(float friction) {
+            this.friction = friction;
+            return this;
+        }
+
+        public Builder setRestitution(float restitution) {
+            this.restitution = restitution;
+            return this;
+        }
+
+        public Builder setLinearDamping(float linearDamping) {
+            this.linearDamping = linearDamping;
+            return this;
+        }
+
+        public Builder setAngularDamping(float angularDamping) {
+            this.angularDamping = angularDamping;
+            return this;
+        }
+
+        /**
+         * Sets an impulse applied once the body is created.
+         *
+         * @param impulse Impulse to apply.
+         * @param position Position relative to the body the impulse is applied at.
+         * @return This builder.
+         */
+        public Builder setImpulse(Vec3 impulse, Vec3 position) {
+            this.impulse = impulse;
+            this.impulsePosition = position;
+            return this;
+        }
+
+        public RigidBodySpec build() {
+            return new RigidBodySpec(this);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+/**
+ * SampleScenes, the scenes of the samples described against SceneBackend.
+ * The environment textures are shared by both samples and started by XRenderView as a scene of their own.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public final class SampleScenes {
+    /**
+     * Scene name of PhysicsEngineSampleOneActivity.
+     */
+    public static final String SAMPLE_ONE = "PhysicsEngineSampleOne";
+
+    /**
+     * Scene name of PhysicsEngineSampleTwoActivity.
+     */
+    public static final String SAMPLE_TWO = "PhysicsEngineSampleTwo";
+
+    /**
+     * Scene name of the environment textures set up by XRenderView.
+     */
+    public static final String ENVIRONMENT = "Environment";
+
+    private static final String GROUND_MODEL_URI = "Cube/cube.gltf";
+    private static final String BALL_MODEL_URI = "Ball/ball.glb";
+    private static final String BOX_MODEL_URI = "Box/Box.gltf";
+    private static final String SKY_BOX_TEXTURE_URI = "Scene/output_skybox.dds";
+    private static final String DIFFUSE_ENV_TEXTURE_URI = "Scene/output_diffuse.dds";
+
+    private SampleScenes() {
+    }
+
+    /**
+     * Sky box and diffuse environment lighting textures.
+     * The app ships no specular environment texture, so the engine default is kept for it.
+     *
+     * @param backend Backend the scene is built with.
+     * @param listener Listener notified when the startup has finished.
+     * @return Startup of the scene, not started yet.
+     */
+    public static <M, T, N> SceneStartup<M, T, N> environment(SceneBackend<M, T, N> backend,
+        StartupTracer.Listener listener) {
+        return new SceneStartup<>(ENVIRONMENT, backend, listener)
+            .addTexture(SKY_BOX_TEXTURE_URI, SceneBackend::setSkyBoxTexture)
+            .addTexture(DIFFUSE_ENV_TEXTURE_URI, SceneBackend::setDiffuseEnvTexture);
+    }
+
+    /**
+     * Scene with a ground and four spheres of increasing restitution.
+     *
+     * @param backend Backend the scene is built with.
+     * @param profile Settling profile of the rigid bodies.
+     * @param listener Listener notified when the startup has finished.
+     * @return Startup of the scene, not started yet.
+     */
+    public static <M, T, N> SceneStartup<M, T, N> sampleOne(SceneBackend<M, T, N> backend,
+        SettlingProfile profile, StartupTracer.Listener listener) {
+        return new SceneStartup<>(SAMPLE_ONE, backend, listener)
+            .addModel(GROUND_MODEL_URI, (sceneBackend, model) -> addGround(sceneBackend, model, profile))
+            .addModel(BALL_MODEL_URI, (sceneBackend, model) -> addSpheres(sceneBackend, model, profile));
+    }
+
+    /**
+     * Scene with a ground, a point to point constraint and a hinge constraint.
+     *
+     * @param backend Backend the scene is built with.
+     * @param profile Settling profile of the rigid bodies.
+     * @param listener Listener notified when the startup has finished.
+     * @return Startup of the scene, not started yet.
+     */
+    public static <M, T, N> SceneStartup<M, T, N> sampleTwo(SceneBackend<M, T, N> backend,
+        SettlingProfile profile, StartupTracer.Listener listener) {
+        return new SceneStartup<>(SAMPLE_TWO, backend, listener)
+            .addModel(GROUND_MODEL_URI, (sceneBackend, model) -> addGround(sceneBackend, model, profile))
+            .addModel(BALL_MODEL_URI, (sceneBackend, model) -> addPoint2PointConstraint(sceneBackend, model, profile))
+            .addModel(BOX_MODEL_URI, (sceneBackend, model) -> addHingeConstraint(sceneBackend, model, profile));
+    }
+
+    private static <M, N> void addGround(SceneBackend<M, ?, N> backend, M model, SettlingProfile profile) {
+        N groundNode = backend.createNode(model);
+        backend.addBoxCollider(groundNode, new Vec3(1000f, 1f, 1000f));
+        backend.setTransform(groundNode, new Vec3(0f, -3f, 0f), new Vec3(20f, 1f, 20f));
+        backend.addRigidBody(groundNode, RigidBodySpec.builder()
+            .setRestitution(profile.getGroundRestitution(1f))
+            .setGroup((short) 1)
+            .setKinematic(false)
+            .setFriction(profile.getFriction(10f))
+            .setMask((short) 1)
+            .setMass(0)
+            .build());
+    }
+
+    private static <M, N> void addSpheres(SceneBackend<M, ?, N> backend, M model, SettlingProfile profile) {
+        for (int index = 0; index < 4; index++) {
+            N node = backend.createNode(model);
+            backend.setTransform(node, new Vec3(-3.0f + 2 * index, 10.0f, 10.0f), new Vec3(0.6f, 0.6f, 0.6f));
+            backend.addSphereCollider(node, 0.6f);
+            backend.addRigidBody(node, profile.applyDamping(RigidBodySpec.builder()
+                .setMask((short) 1)
+                .setGroup((short) 1)
+                .setFriction(profile.getFriction(10f))
+                .setKinematic(false)
+                .setMass(1.0f)
+                .setRestitution(0.3f * index))
+                .build());
+        }
+    }
+
+    private static <M, N> void addPoint2PointConstraint(SceneBackend<M, ?, N> backend, M model,
+        SettlingProfile profile) {
+        N staticNode = backend.createNode(model);
+        backend.setWorldTransform(staticNode, new Vec3(0, 15, 10), new Vec3(0.1f, 0.1f, 0.1f));
+        backend.addRigidBody(staticNode, RigidBodySpec.builder()
+            .setMass(0)
+            .setKinematic(false)
+            .setGroup((short) 0)
+            .setMask((short) 0)
+            .build());
+        backend.addSphereCollider(staticNode, 0.1f);
+        N targetNode = backend.createNode(model);
+        backend.setWorldTransform(targetNode, new Vec3(2, 15, 10), new Vec3(1f, 1f, 1f));
+        backend.addRigidBody(targetNode, profile.applyDamping(RigidBodySpec.builder()
+            .setMass(1)
+            .setLinearDamping(0)
+            .setAngularDamping(0))
+            .build());
+        backend.addSphereCollider(targetNode, 0.77f);
+        backend.addPoint2PointConstraint(staticNode, Vec3.ZERO, targetNode, new Vec3(0, 3, 0));
+    }
+
+    private static <M, N> void addHingeConstraint(SceneBackend<M, ?, N> backend, M model, SettlingProfile profile) {
+        N staticNode = backend.createNode(model);
+        backend.setWorldTransform(staticNode, new Vec3(0.12f, 5, 10), new Vec3(0.2f, 8, 0.25f));
+        backend.addBoxCollider(staticNode, new Vec3(0.1f, 4, 0.125f));
+        backend.addRigidBody(staticNode, RigidBodySpec.builder()
+            .setMass(0)
+            .setGroup((short) 0)
+            .setMask((short) 0)
+            .build());
+        N targetNode = backend.createNode(model);
+        backend.setWorldTransform(targetNode, new Vec3(-2, 5, 10), new Vec3(4, 8, 0.25f));
+        backend.addBoxCollider(targetNode, new Vec3(1.98f, 4, 0.125f));
+        backend.addRigidBody(targetNode, profile.applyDamping(RigidBodySpec.builder()
+            .setMass(1)
+            .setAngularDamping(0)
+            .setLinearDamping(0)
+            .setImpulse(new Vec3(15, 0, 15), new Vec3(1, 0, 0)))
+            .build());
+        backend.addHingeConstraint(targetNode, new Vec3(2, 0, 0), Vec3.UP, staticNode, Vec3.ZERO, Vec3.UP,
+            0.f, (float) Math.PI);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+/**
+ * SceneBackend, the resource and scene operations the samples build their scenes with.
+ * SceneKitBackend implements it on top of SceneKit, the unit tests implement it with a stand-in.
+ *
+ * @param <M> Model type.
+ * @param <T> Texture type.
+ * @param <N> Node type.
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public interface SceneBackend<M, T, N> {
+    /**
+     * Listener of an asynchronous resource load.
+     *
+     * @param <R> Resource type.
+     */
+    interface LoadListener<R> {
+        void onLoaded(R resource);
+
+        void onException(Exception exception);
+    }
+
+    /**
+     * Loads a model, the backend owns it until {@link #release()}.
+     *
+     * @param uri Asset path of the model.
+     * @param listener Listener notified when the load completes.
+     */
+    void loadModel(String uri, LoadListener<M> listener);
+
+    /**
+     * Loads a texture, the backend owns it until {@link #release()}.
+     *
+     * @param uri Asset path of the texture.
+     * @param listener Listener notified when the load completes.
+     */
+    void loadTexture(String uri, LoadListener<T> listener);
+
+    void setSkyBoxTexture(T texture);
+
+    void setDiffuseEnvTexture(T texture);
+
+    N createNode(M model);
+
+    void setTransform(N node, Vec3 position, Vec3 scale);
+
+    /**
+     * Sets the scale of a node, then places it at a position in world space.
+     *
+     * @param node Node to place.
+     * @param worldPosition Position in world space.
+     * @param scale Local scale.
+     */
+    void setWorldTransform(N node, Vec3 worldPosition, Vec3 scale);
+
+    void addBoxCollider(N node, Vec3 extent);
+
+    void addSphereCollider(N node, float radius);
+
+    void addRigidBody(N node, RigidBodySpec spec);
+
+    /**
+     * Connects two nodes at a point, the constraint component is attached to nodeB.
+     *
+     * @param nodeA First node.
+     * @param pivotA Pivot in the space of nodeA.
+     * @param nodeB Second node.
+     * @param pivotB Pivot in the space of nodeB.
+     */
+    void addPoint2PointConstraint(N nodeA, Vec3 pivotA, N nodeB, Vec3 pivotB);
+
+    /**
+     * Connects two nodes with a hinge, the constraint component is attached to nodeA.
+     *
+     * @param nodeA First node.
+     * @param pivotA Pivot in the space of nodeA.
+     * @param axisA Hinge axis in the space of nodeA.
+     * @param nodeB Second node.
+     * @param pivotB Pivot in the space of nodeB.
+     * @param axisB Hinge axis in the space of nodeB.
+     * @param lowerLimit Lower angle limit in radians.
+     * @param upperLimit Upper angle limit in radians.
+     */
+    void addHingeConstraint(N nodeA, Vec3 pivotA, Vec3 axisA, N nodeB, Vec3 pivotB, Vec3 axisB,
+        float lowerLimit, float upperLimit);
+
+    /**
+     * Destroys the loaded resources. Loads that complete afterwards are destroyed right away.
+     */
+    void release();
+}
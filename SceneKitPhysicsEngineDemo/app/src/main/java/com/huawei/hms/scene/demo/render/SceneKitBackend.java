@@ -0,0 +1,266 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+import android.content.Context;
+import android.net.Uri;
+import android.widget.Toast;
+
+import com.huawei.hms.scene.math.Vector3;
+import com.huawei.hms.scene.sdk.render.Collider;
+import com.huawei.hms.scene.sdk.render.HingeConstraint;
+import com.huawei.hms.scene.sdk.render.Model;
+import com.huawei.hms.scene.sdk.render.Node;
+import com.huawei.hms.scene.sdk.render.Point2PointConstraint;
+import com.huawei.hms.scene.sdk.render.Resource;
+import com.huawei.hms.scene.sdk.render.RigidBody;
+import com.huawei.hms.scene.sdk.render.Scene;
+import com.huawei.hms.scene.sdk.render.Texture;
+import com.huawei.hms.scene.sdk.render.Transform;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SceneKitBackend, builds the sample scenes with SceneKit.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public class SceneKitBackend implements SceneBackend<Model, Texture, Node> {
+    private final Context context;
+    private final Scene scene;
+    private final List<Model> models = new ArrayList<>();
+    private final List<Texture> textures = new ArrayList<>();
+    private final List<Node> dynamicNodes = new ArrayList<>();
+    private boolean isReleased = false;
+
+    public SceneKitBackend(Context context, Scene scene) {
+        this.context = context;
+        this.scene = scene;
+    }
+
+    @Override
+    public void loadModel(String uri, LoadListener<Model> listener) {
+        Model.builder()
+            .setUri(Uri.parse(uri))
+            .load(context, new ModelLoadEventListener(new WeakReference<>(this), listener));
+    }
+
+    @Override
+    public void loadTexture(String uri, LoadListener<Texture> listener) {
+        Texture.builder()
+            .setUri(Uri.parse(uri))
+            .load(context, new TextureLoadEventListener(new WeakReference<>(this), listener));
+    }
+
+    @Override
+    public void setSkyBoxTexture(Texture texture) {
+        scene.setSkyBoxTexture(texture);
+    }
+
+    @Override
+    public void setDiffuseEnvTexture(Texture texture) {
+        scene.setDiffuseEnvTexture(texture);
+    }
+
+    @Override
+    public Node createNode(Model model) {
+        return scene.createNodeFromModel(model);
+    }
+
+    @Override
+    public void setTransform(Node node, Vec3 position, Vec3 scale) {
+        node.getComponent(Transform.descriptor())
+            .setPosition(toVector3(position))
+            .setScale(toVector3(scale));
+    }
+
+    @Override
+    public void setWorldTransform(Node node, Vec3 worldPosition, Vec3 scale) {
+        Transform transform = node.getComponent(Transform.descriptor());
+        transform.setScale(toVector3(scale));
+        transform.setWorldPosition(toVector3(worldPosition));
+    }
+
+    @Override
+    public void addBoxCollider(Node node, Vec3 extent) {
+        node.addComponent(Collider.descriptor())
+            .createBoxShape()
+            .setExtent(toVector3(extent));
+    }
+
+    @Override
+    public void addSphereCollider(Node node, float radius) {
+        node.addComponent(Collider.descriptor())
+            .createSphereShape()
+            .setRadius(radius);
+    }
+
+    @Override
+    public void addRigidBody(Node node, RigidBodySpec spec) {
+        RigidBody rigidBody = node.addComponent(RigidBody.descriptor())
+            .setMass(spec.getMass());
+        if (spec.getKinematic() != null) {
+            rigidBody.setKinematic(spec.getKinematic());
+        }
+        if (spec.getGroup() != null) {
+            rigidBody.setGroup(spec.getGroup());
+        }
+        if (spec.getMask() != null) {
+            rigidBody.setMask(spec.getMask());
+        }
+        if (spec.getFriction() != null) {
+            rigidBody.setFriction(spec.getFriction());
+        }
+        if (spec.getRestitution() != null) {
+            rigidBody.setRestitution(spec.getRestitution());
+        }
+        if (spec.getLinearDamping() != null) {
+            rigidBody.setLinearDamping(spec.getLinearDamping());
+        }
+        if (spec.getAngularDamping() != null) {
+            rigidBody.setAngularDamping(spec.getAngularDamping());
+        }
+        if (spec.getImpulse() != null) {
+            rigidBody.applyImpulse(toVector3(spec.getImpulse()), toVector3(spec.getImpulsePosition()));
+        }
+        if (spec.getMass() > 0) {
+            dynamicNodes.add(node);
+        }
+    }
+
+    @Override
+    public void addPoint2PointConstraint(Node nodeA, Vec3 pivotA, Node nodeB, Vec3 pivotB) {
+        Point2PointConstraint constraint = nodeB.addComponent(Point2PointConstraint.descriptor());
+        constraint.setPivotA(toVector3(pivotA));
+        constraint.setPivotB(toVector3(pivotB));
+        constraint.setNodeA(nodeA);
+        constraint.setNodeB(nodeB);
+    }
+
+    @Override
+    public void addHingeConstraint(Node nodeA, Vec3 pivotA, Vec3 axisA, Node nodeB, Vec3 pivotB, Vec3 axisB,
+        float lowerLimit, float upperLimit) {
+        HingeConstraint hinge = nodeA.addComponent(HingeConstraint.descriptor());
+        hinge.setNodeA(nodeA);
+        hinge.setNodeB(nodeB);
+        hinge.setLowerLimit(lowerLimit)
+            .setUpperLimit(upperLimit)
+            .setPivotA(toVector3(pivotA))
+            .setPivotB(toVector3(pivotB))
+            .setAxisA(toVector3(axisA))
+            .setAxisB(toVector3(axisB));
+    }
+
+    /**
+     * Positions of the nodes with a dynamic rigid body, in the order the bodies were added.
+     *
+     * @return Positions of the dynamic bodies.
+     */
+    public List<Vec3> getDynamicBodyPositions() {
+        List<Vec3> positions = new ArrayList<>(dynamicNodes.size());
+        for (Node node : dynamicNodes) {
+            Vector3 position = node.getComponent(Transform.descriptor()).getPosition();
+            positions.add(new Vec3(position.x, position.y, position.z));
+        }
+        return positions;
+    }
+
+    @Override
+    public void release() {
+        isReleased = true;
+        dynamicNodes.clear();
+        for (Model model : models) {
+            Model.destroy(model);
+        }
+        models.clear();
+        for (Texture texture : textures) {
+            Texture.destroy(texture);
+        }
+        textures.clear();
+    }
+
+    private static Vector3 toVector3(Vec3 vec) {
+        return new Vector3(vec.getX(), vec.getY(), vec.getZ());
+    }
+
+    private static final class ModelLoadEventListener implements Resource.OnLoadEventListener<Model> {
+        private final WeakReference<SceneKitBackend> weakRef;
+        private final LoadListener<Model> listener;
+
+        ModelLoadEventListener(WeakReference<SceneKitBackend> weakRef, LoadListener<Model> listener) {
+            this.weakRef = weakRef;
+            this.listener = listener;
+        }
+
+        @Override
+        public void onLoaded(Model model) {
+            SceneKitBackend backend = weakRef.get();
+            if (backend == null || backend.isReleased) {
+                Model.destroy(model);
+                return;
+            }
+            backend.models.add(model);
+            listener.onLoaded(model);
+        }
+
+        @Override
+        public void onException(Exception exception) {
+            SceneKitBackend backend = weakRef.get();
+            if (backend == null || backend.isReleased) {
+                return;
+            }
+            Toast.makeText(backend.context,
+                "failed to load model: " + exception.getMessage(), Toast.LENGTH_SHORT).show();
+            listener.onException(exception);
+        }
+    }
+
+    private static final class TextureLoadEventListener implements Resource.OnLoadEventListener<Texture> {
+        private final WeakReference<SceneKitBackend> weakRef;
+        private final LoadListener<Texture> listener;
+
+        TextureLoadEventListener(WeakReference<SceneKitBackend> weakRef, LoadListener<Texture> listener) {
+            this.weakRef = weakRef;
+            this.listener = listener;
+        }
+
+        @Override
+        public void onLoaded(Texture texture) {
+            SceneKitBackend backend = weakRef.get();
+            if (backend == null || backend.isReleased) {
+                Texture.destroy(texture);
+                return;
+            }
+            backend.textures.add(texture);
+            listener.onLoaded(texture);
+        }
+
+        @Override
+        public void onException(Exception exception) {
+            SceneKitBackend backend = weakRef.get();
+            if (backend == null || backend.isReleased) {
+                return;
+            }
+            Toast.makeText(backend.context,
+                "failed to load texture: " + exception.getMessage(), Toast.LENGTH_SHORT).show();
+            listener.onException(exception);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SceneStartup, loads the resources of a scene and builds the scene from them.
+ * Every resource gets a "load" phase, timed from issuing the load until it completes,
+ * and a "build" phase, timed while the scene is built from the resource.
+ *
+ * @param <M> Model type.
+ * @param <T> Texture type.
+ * @param <N> Node type.
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public final class SceneStartup<M, T, N> {
+    /**
+     * Builds a part of the scene from a loaded resource.
+     *
+     * @param <B> Backend type.
+     * @param <R> Resource type.
+     */
+    public interface Step<B, R> {
+        void build(B backend, R resource);
+    }
+
+    private final String sceneName;
+    private final SceneBackend<M, T, N> backend;
+    private final StartupTracer.Listener listener;
+    private final List<String> phases = new ArrayList<>();
+    private final List<Runnable> loads = new ArrayList<>();
+    private StartupTracer tracer;
+    private boolean released = false;
+
+    public SceneStartup(String sceneName, SceneBackend<M, T, N> backend, StartupTracer.Listener listener) {
+        this.sceneName = sceneName;
+        this.backend = backend;
+        this.listener = listener;
+    }
+
+    /**
+     * Adds a model and the step building the scene from it.
+     *
+     * @param uri Asset path of the model.
+     * @param step Step run once the model is loaded.
+     * @return This startup.
+     */
+    public SceneStartup<M, T, N> addModel(String uri, Step<SceneBackend<M, T, N>, M> step) {
+        addPhases(uri);
+        loads.add(() -> backend.loadModel(uri, new LoadListener<>(new WeakReference<>(this), uri, step)));
+        return this;
+    }
+
+    /**
+     * Adds a texture and the step applying it to the scene.
+     *
+     * @param uri Asset path of the texture.
+     * @param step Step run once the texture is loaded.
+     * @return This startup.
+     */
+    public SceneStartup<M, T, N> addTexture(String uri, Step<SceneBackend<M, T, N>, T> step) {
+        addPhases(uri);
+        loads.add(() -> backend.loadTexture(uri, new LoadListener<>(new WeakReference<>(this), uri, step)));
+        return this;
+    }
+
+    /**
+     * Issues all loads, the listener is notified once every resource is loaded and built, or failed.
+     */
+    public void start() {
+        tracer = new StartupTracer(sceneName, listener, phases.toArray(new String[0]));
+        for (int index = 0; index < loads.size(); index++) {
+            tracer.begin(phases.get(2 * index));
+            loads.get(index).run();
+        }
+    }
+
+    /**
+     * Releases the backend and ignores loads that complete afterwards.
+     */
+    public void release() {
+        released = true;
+        backend.release();
+    }
+
+    static String loadPhase(String uri) {
+        return "load " + uri;
+    }
+
+    static String buildPhase(String uri) {
+        return "build " + uri;
+    }
+
+    private void addPhases(String uri) {
+        phases.add(loadPhase(uri));
+        phases.add(buildPhase(uri));
+    }
+
+    private static final class LoadListener<M, T, N, R> implements SceneBackend.LoadListener<R> {
+        private final WeakReference<SceneStartup<M, T, N>> weakRef;
+        private final String uri;
+        private final Step<SceneBackend<M, T, N>, R> step;
+
+        LoadListener(WeakReference<SceneStartup<M, T, N>> weakRef, String uri, Step<SceneBackend<M, T, N>, R> step) {
+            this.weakRef = weakRef;
+            this.uri = uri;
+            this.step = step;
+        }
+
+        @Override
+        public void onLoaded(R resource) {
+            SceneStartup<M, T, N> startup = weakRef.get();
+            if (startup == null || startup.released) {
+                return;
+            }
+            startup.tracer.end(loadPhase(uri));
+            startup.tracer.begin(buildPhase(uri));
+            step.build(startup.backend, resource);
+            startup.tracer.end(buildPhase(uri));
+        }
+
+        @Override
+        public void onException(Exception exception) {
+            SceneStartup<M, T, N> startup = weakRef.get();
+            if (startup == null || startup.released) {
+                return;
+            }
+            startup.tracer.end(loadPhase(uri));
+            startup.tracer.skip(buildPhase(uri));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SettleDetector, measures how long the dynamic bodies of a scene take to come to rest.
+ * The bodies count as settled once they have been seen moving and then none of them moves faster than the rest
+ * speed for the whole still window. Bodies that never move, for example because their transforms are read before the
+ * simulation updates them, do not count as settled.
+ * Only the time to rest is measured. The frame times come from vsync and say nothing about the cost of a step.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public class SettleDetector {
+    /**
+     * Speed below which a body counts as resting, in scene units per second.
+     */
+    public static final float REST_SPEED = 0.05f;
+
+    /**
+     * Time all bodies have to rest before the scene counts as settled.
+     */
+    public static final long STILL_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Time after which the measurement gives up.
+     */
+    public static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private List<Vec3> lastPositions;
+    private long startNanos = -1L;
+    private long lastFrameNanos;
+    private long stillSinceNanos = -1L;
+    private boolean hasMoved = false;
+    private long settleNanos = -1L;
+    private boolean isDone = false;
+
+    /**
+     * Feeds the positions of the dynamic bodies at a frame.
+     *
+     * @param frameTimeNanos Time of the frame.
+     * @param positions Positions of the bodies, in the same order every frame.
+     * @return Whether the measurement is done, because the bodies settled or the timeout passed.
+     */
+    public boolean onFrame(long frameTimeNanos, List<Vec3> positions) {
+        if (isDone) {
+            return true;
+        }
+        if (startNanos < 0) {
+            startNanos = frameTimeNanos;
+        }
+        if (lastPositions != null && frameTimeNanos > lastFrameNanos && !positions.isEmpty()
+            && positions.size() == lastPositions.size()) {
+            float seconds = (frameTimeNanos - lastFrameNanos) / (float) TimeUnit.SECONDS.toNanos(1);
+            if (maxDistance(lastPositions, positions) / seconds >= REST_SPEED) {
+                hasMoved = true;
+                stillSinceNanos = -1L;
+            } else if (hasMoved && stillSinceNanos < 0) {
+                stillSinceNanos = lastFrameNanos;
+            }
+        } else {
+            stillSinceNanos = -1L;
+        }
+        lastFrameNanos = frameTimeNanos;
+        lastPositions = positions;
+        if (stillSinceNanos >= 0 && frameTimeNanos - stillSinceNanos >= STILL_WINDOW_NANOS) {
+            settleNanos = stillSinceNanos - startNanos;
+            isDone = true;
+        } else if (frameTimeNanos - startNanos >= TIMEOUT_NANOS) {
+            isDone = true;
+        }
+        return isDone;
+    }
+
+    /**
+     * Time from the first frame until the bodies came to rest.
+     *
+     * @return Duration in nanoseconds, -1 if the bodies have not moved and settled.
+     */
+    public long getSettleNanos() {
+        return settleNanos;
+    }
+
+    private static float maxDistance(List<Vec3> from, List<Vec3> to) {
+        float maxDistance = 0f;
+        for (int index = 0; index < from.size(); index++) {
+            Vec3 start = from.get(index);
+            Vec3 end = to.get(index);
+            float deltaX = end.getX() - start.getX();
+            float deltaY = end.getY() - start.getY();
+            float deltaZ = end.getZ() - start.getZ();
+            float distance = (float) Math.sqrt(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+            maxDistance = Math.max(maxDistance, distance);
+        }
+        return maxDistance;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+import android.util.Log;
+import android.view.Choreographer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SettleMonitor, logs how long the dynamic bodies of a sample take to come to rest with a settling profile.
+ * It samples the body positions once per frame, starting when the scene startup has finished.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public class SettleMonitor implements Choreographer.FrameCallback {
+    private static final String TAG = "SettleMonitor";
+
+    private final String sceneName;
+    private final SettlingProfile profile;
+    private final SceneKitBackend backend;
+    private final SettleDetector detector = new SettleDetector();
+    private boolean isRunning = false;
+    private boolean isFinished = false;
+
+    public SettleMonitor(String sceneName, SettlingProfile profile, SceneKitBackend backend) {
+        this.sceneName = sceneName;
+        this.profile = profile;
+        this.backend = backend;
+    }
+
+    /**
+     * Starts sampling the body positions, a stopped or finished monitor does not start again.
+     */
+    public void start() {
+        if (isRunning || isFinished) {
+            return;
+        }
+        isRunning = true;
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /**
+     * Stops sampling. A pause freezes the simulation, so the measurement is not resumed afterwards.
+     */
+    public void stop() {
+        isFinished = true;
+        if (!isRunning) {
+            return;
+        }
+        isRunning = false;
+        Choreographer.getInstance().removeFrameCallback(this);
+        Log.i(TAG, sceneName + " with " + profile + ": settle measurement interrupted");
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!isRunning) {
+            return;
+        }
+        if (!detector.onFrame(frameTimeNanos, backend.getDynamicBodyPositions())) {
+            Choreographer.getInstance().postFrameCallback(this);
+            return;
+        }
+        isRunning = false;
+        isFinished = true;
+        if (detector.getSettleNanos() < 0) {
+            Log.i(TAG, sceneName + " with " + profile + ": not settled after "
+                + TimeUnit.NANOSECONDS.toMillis(SettleDetector.TIMEOUT_NANOS) + " ms");
+            return;
+        }
+        Log.i(TAG, sceneName + " with " + profile + ": settled after "
+            + TimeUnit.NANOSECONDS.toMillis(detector.getSettleNanos()) + " ms");
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+import android.content.Intent;
+
+/**
+ * Settling profiles shared by the samples.
+ * A profile overrides the contact and damping parameters of the rigid bodies, which decide how quickly
+ * bouncing bodies and constrained bodies come to rest. Parameters a profile leaves null keep the values
+ * the sample sets itself, or stay unset if the sample does not set them.
+ * The profiles only change body parameters, not the solver, and cost the same per simulation step.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public enum SettlingProfile {
+    /**
+     * The scenes exactly as the samples were written: friction 10, a fully elastic ground, no damping on the
+     * spheres of sample one and zero damping on the constraint bodies of sample two.
+     * Pendulum and hinge keep swinging, resting contacts may jitter.
+     */
+    ORIGINAL(null, null, null, null),
+
+    /**
+     * Moderate friction, a slightly inelastic ground and light damping.
+     * Pendulum and hinge swing visibly but decay over time.
+     */
+    BALANCED(2.0f, 0.8f, 0.05f, 0.1f),
+
+    /**
+     * Low ground elasticity and strong damping, bodies come to rest quickly.
+     */
+    FAST_SETTLE(1.0f, 0.5f, 0.1f, 0.3f);
+
+    /**
+     * Name of the intent extra which carries the profile to the sample activities.
+     */
+    public static final String EXTRA_NAME = "settling_profile";
+
+    /**
+     * Profile used when no profile is selected, the damped profiles are opt-in.
+     */
+    public static final SettlingProfile DEFAULT = ORIGINAL;
+
+    private final Float friction;
+    private final Float groundRestitution;
+    private final Float linearDamping;
+    private final Float angularDamping;
+
+    SettlingProfile(Float friction, Float groundRestitution, Float linearDamping, Float angularDamping) {
+        this.friction = friction;
+        this.groundRestitution = groundRestitution;
+        this.linearDamping = linearDamping;
+        this.angularDamping = angularDamping;
+    }
+
+    /**
+     * Reads the profile selected for a sample activity.
+     *
+     * @param intent Intent the activity is started with.
+     * @return Selected profile, or {@link #DEFAULT} if the intent carries none.
+     */
+    public static SettlingProfile fromIntent(Intent intent) {
+        String name = intent == null ? null : intent.getStringExtra(EXTRA_NAME);
+        if (name == null) {
+            return DEFAULT;
+        }
+        try {
+            return valueOf(name);
+        } catch (IllegalArgumentException exception) {
+            return DEFAULT;
+        }
+    }
+
+    /**
+     * Friction of the ground and of the bodies resting on it.
+     *
+     * @param sampleFriction Friction the sample sets.
+     * @return Friction coefficient of the profile, or sampleFriction if the profile keeps it.
+     */
+    public float getFriction(float sampleFriction) {
+        return friction == null ? sampleFriction : friction;
+    }
+
+    /**
+     * Restitution of the ground. The engine combines it with the restitution of the body hitting the ground.
+     *
+     * @param sampleRestitution Ground restitution the sample sets.
+     * @return Restitution of the profile, or sampleRestitution if the profile keeps it.
+     */
+    public float getGroundRestitution(float sampleRestitution) {
+        return groundRestitution == null ? sampleRestitution : groundRestitution;
+    }
+
+    /**
+     * Sets the linear and angular damping of a dynamic body, if the profile overrides them.
+     *
+     * @param builder Builder of the body, with the damping the sample sets, if any.
+     * @return The builder.
+     */
+    public RigidBodySpec.Builder applyDamping(RigidBodySpec.Builder builder) {
+        if (linearDamping != null) {
+            builder.setLinearDamping(linearDamping);
+        }
+        if (angularDamping != null) {
+            builder.setAngularDamping(angularDamping);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+import android.os.Debug;
+import android.util.Log;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StartupLogger, logs the phases of a scene startup on the device.
+ * SceneKit keeps models and textures in native memory, so the native heap growth is logged along with the times.
+ * Regressions are gated by the JVM harness in the unit tests, not on the device.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public class StartupLogger implements StartupTracer.Listener {
+    private static final String TAG = "StartupLogger";
+    private static final long BYTES_PER_KB = 1024L;
+
+    private final long startNativeHeapBytes = Debug.getNativeHeapAllocatedSize();
+
+    @Override
+    public void onStartupFinished(StartupTracer tracer) {
+        for (Map.Entry<String, Long> phase : tracer.getPhaseNanos().entrySet()) {
+            Log.i(TAG, tracer.getSceneName() + " " + phase.getKey() + ": "
+                + TimeUnit.NANOSECONDS.toMillis(phase.getValue()) + " ms");
+        }
+        long grownKb = (Debug.getNativeHeapAllocatedSize() - startNativeHeapBytes) / BYTES_PER_KB;
+        Log.i(TAG, tracer.getSceneName() + " started in " + TimeUnit.NANOSECONDS.toMillis(tracer.getTotalNanos())
+            + " ms, native heap grew by " + grownKb + " KB");
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * StartupTracer, times the phases of bringing a scene up.
+ * The phases are named up front, the listener is notified once every phase has ended or was skipped.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public class StartupTracer {
+    /**
+     * Listener notified when the startup has finished.
+     */
+    public interface Listener {
+        void onStartupFinished(StartupTracer tracer);
+    }
+
+    private final String sceneName;
+    private final Listener listener;
+    private final Set<String> remainingPhases;
+    private final Map<String, Long> phaseStartNanos = new HashMap<>();
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private final long startNanos;
+    private long totalNanos = -1L;
+
+    /**
+     * Starts tracing a scene.
+     *
+     * @param sceneName Name of the traced scene.
+     * @param listener Listener notified when all phases have ended.
+     * @param phases Names of the phases, each has to be ended or skipped once.
+     */
+    public StartupTracer(String sceneName, Listener listener, String... phases) {
+        this.sceneName = sceneName;
+        this.listener = listener;
+        this.remainingPhases = new LinkedHashSet<>(Arrays.asList(phases));
+        if (remainingPhases.size() != phases.length || phases.length == 0) {
+            throw new IllegalArgumentException("phases must be distinct and not empty: " + Arrays.toString(phases));
+        }
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Marks the beginning of a phase.
+     *
+     * @param phase Name of the phase.
+     */
+    public void begin(String phase) {
+        if (!remainingPhases.contains(phase) || phaseStartNanos.containsKey(phase)) {
+            throw new IllegalStateException("phase cannot begin: " + phase);
+        }
+        phaseStartNanos.put(phase, System.nanoTime());
+    }
+
+    /**
+     * Marks the end of a phase.
+     *
+     * @param phase Name of the phase.
+     */
+    public void end(String phase) {
+        Long beginNanos = phaseStartNanos.get(phase);
+        if (beginNanos == null || !remainingPhases.contains(phase)) {
+            throw new IllegalStateException("phase has not begun: " + phase);
+        }
+        phaseNanos.put(phase, System.nanoTime() - beginNanos);
+        complete(phase);
+    }
+
+    /**
+     * Marks a phase that will not run, e.g. because the resource it builds on failed to load.
+     *
+     * @param phase Name of the phase.
+     */
+    public void skip(String phase) {
+        if (!remainingPhases.contains(phase)) {
+            throw new IllegalStateException("phase has already completed: " + phase);
+        }
+        complete(phase);
+    }
+
+    private void complete(String phase) {
+        remainingPhases.remove(phase);
+        if (remainingPhases.isEmpty()) {
+            totalNanos = System.nanoTime() - startNanos;
+            listener.onStartupFinished(this);
+        }
+    }
+
+    public String getSceneName() {
+        return sceneName;
+    }
+
+    /**
+     * Durations of the ended phases in the order they ended, skipped phases are absent.
+     *
+     * @return Phase names mapped to durations in nanoseconds.
+     */
+    public Map<String, Long> getPhaseNanos() {
+        return Collections.unmodifiableMap(phaseNanos);
+    }
+
+    /**
+     * Time from the creation of the tracer until the last phase completed.
+     *
+     * @return Duration in nanoseconds, -1 while phases are remaining.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public boolean isFinished() {
+        return remainingPhases.isEmpty();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+/**
+ * Vec3, an immutable vector used by the scene descriptions,
+ * so that they do not depend on the SceneKit math classes.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public final class Vec3 {
+    /**
+     * Zero vector.
+     */
+    public static final Vec3 ZERO = new Vec3(0f, 0f, 0f);
+
+    /**
+     * Unit vector along the y axis.
+     */
+    public static final Vec3 UP = new Vec3(0f, 1f, 0f);
+
+    private final float x;
+    private final float y;
+    private final float z;
+
+    public Vec3(float x, float y, float z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getZ() {
+        return z;
+    }
+}
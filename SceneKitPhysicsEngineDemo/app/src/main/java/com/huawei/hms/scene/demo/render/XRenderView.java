@@ -17,74 +17,40 @@
 package com.huawei.hms.scene.demo.render;
 
 import android.content.Context;
-import android.net.Uri;
 import android.util.AttributeSet;
 import android.util.DisplayMetrics;
-import android.widget.Toast;
 
 import com.huawei.hms.scene.math.Vector3;
 import com.huawei.hms.scene.sdk.render.Camera;
 import com.huawei.hms.scene.sdk.render.Light;
+import com.huawei.hms.scene.sdk.render.Model;
 import com.huawei.hms.scene.sdk.render.Node;
 import com.huawei.hms.scene.sdk.render.RenderView;
-import com.huawei.hms.scene.sdk.render.Resource;
 import com.huawei.hms.scene.sdk.render.Texture;
 import com.huawei.hms.scene.sdk.render.Transform;
 
-import java.lang.ref.WeakReference;
-
 /**
- * XRenderView.
+ * XRenderView, sets up the camera, the light and the environment textures in both constructors.
  *
  * @author HUAWEI.
  * @since 2021-8-18
  */
 public class XRenderView extends RenderView {
-    private Texture skyBoxTexture;
-    private Texture specularEnvTexture;
-    private Texture diffuseEnvTexture;
-    private boolean isDestroyed = false;
+    private SceneStartup<Model, Texture, Node> environmentStartup;
 
     public XRenderView(Context context) {
         super(context);
         prepareScene(context);
-        Texture.builder()
-            .setUri(Uri.parse("Scene/output_skybox.dds"))
-            .load(context, new SkyBoxTextureLoadEventListener(new WeakReference<>(this)));
-        Texture.builder()
-            .setUri(Uri.parse("Scene/output_specular.dds"))
-            .load(context, new SpecularEnvTextureLoadEventListener(new WeakReference<>(this)));
-        Texture.builder()
-            .setUri(Uri.parse("Scene/output_diffuse.dds"))
-            .load(context, new DiffuseEnvTextureLoadEventListener(new WeakReference<>(this)));
     }
 
     public XRenderView(Context context, AttributeSet attributeSet) {
         super(context, attributeSet);
         prepareScene(context);
-        Texture.builder()
-                .setUri(Uri.parse("Scene/output_skybox.dds"))
-                .load(context, new SkyBoxTextureLoadEventListener(new WeakReference<>(this)));
-        Texture.builder()
-                .setUri(Uri.parse("Scene/output_specular.dds"))
-                .load(context, new SpecularEnvTextureLoadEventListener(new WeakReference<>(this)));
-        Texture.builder()
-                .setUri(Uri.parse("Scene/output_diffuse.dds"))
-                .load(context, new DiffuseEnvTextureLoadEventListener(new WeakReference<>(this)));
     }
 
     @Override
     public void destroy() {
-        isDestroyed = true;
-        if (skyBoxTexture != null) {
-            Texture.destroy(skyBoxTexture);
-        }
-        if (specularEnvTexture != null) {
-            Texture.destroy(specularEnvTexture);
-        }
-        if (diffuseEnvTexture != null) {
-            Texture.destroy(diffuseEnvTexture);
-        }
+        environmentStartup.release();
         super.destroy();
     }
 
@@ -109,94 +75,8 @@ public class XRenderView extends RenderView {
                 .setCastShadow(false);
         lightNode.getComponent(Transform.descriptor())
                 .setPosition(new Vector3(3.f, 3.f, 3.f));
-    }
-
-    private static final class SkyBoxTextureLoadEventListener implements Resource.OnLoadEventListener<Texture> {
-        private final WeakReference<XRenderView> weakRef;
-
-        SkyBoxTextureLoadEventListener(WeakReference<XRenderView> weakRef) {
-            this.weakRef = weakRef;
-        }
-
-        @Override
-        public void onLoaded(Texture texture) {
-            XRenderView renderView = weakRef.get();
-            if (renderView == null || renderView.isDestroyed) {
-                Texture.destroy(texture);
-                return;
-            }
-            renderView.skyBoxTexture = texture;
-            renderView.getScene().setSkyBoxTexture(texture);
-        }
-
-        @Override
-        public void onException(Exception exception) {
-            XRenderView renderView = weakRef.get();
-            if (renderView == null || renderView.isDestroyed) {
-                return;
-            }
-            Toast.makeText(renderView.getContext(),
-                "failed to load texture: " + exception.getMessage(), Toast.LENGTH_SHORT).show();
-        }
-    }
-
-    private static final class SpecularEnvTextureLoadEventListener implements Resource.OnLoadEventListener<Texture> {
-        private final WeakReference<XRenderView> weakRef;
-
-        SpecularEnvTextureLoadEventListener(WeakReference<XRenderView> weakRef) {
-            this.weakRef = weakRef;
-        }
-
-        @Override
-        public void onLoaded(Texture texture) {
-            XRenderView renderView = weakRef.get();
-            if (renderView == null || renderView.isDestroyed) {
-                Texture.destroy(texture);
-                return;
-            }
-
-            renderView.specularEnvTexture = texture;
-            renderView.getScene().setSpecularEnvTexture(texture);
-        }
-
-        @Override
-        public void onException(Exception exception) {
-            XRenderView renderView = weakRef.get();
-            if (renderView == null || renderView.isDestroyed) {
-                return;
-            }
-            Toast.makeText(renderView.getContext(),
-                "failed to load texture: " + exception.getMessage(), Toast.LENGTH_SHORT).show();
-        }
-    }
-
-    private static final class DiffuseEnvTextureLoadEventListener implements Resource.OnLoadEventListener<Texture> {
-        private final WeakReference<XRenderView> weakRef;
-
-        DiffuseEnvTextureLoadEventListener(WeakReference<XRenderView> weakRef) {
-            this.weakRef = weakRef;
-        }
-
-        @Override
-        public void onLoaded(Texture texture) {
-            XRenderView renderView = weakRef.get();
-            if (renderView == null || renderView.isDestroyed) {
-                Texture.destroy(texture);
-                return;
-            }
-
-            renderView.diffuseEnvTexture = texture;
-            renderView.getScene().setDiffuseEnvTexture(texture);
-        }
 
-        @Override
-        public void onException(Exception exception) {
-            XRenderView renderView = weakRef.get();
-            if (renderView == null || renderView.isDestroyed) {
-                return;
-            }
-            Toast.makeText(renderView.getContext(),
-                "failed to load texture: " + exception.getMessage(), Toast.LENGTH_SHORT).show();
-        }
+        environmentStartup = SampleScenes.environment(new SceneKitBackend(context, getScene()), new StartupLogger());
+        environmentStartup.start();
     }
 }
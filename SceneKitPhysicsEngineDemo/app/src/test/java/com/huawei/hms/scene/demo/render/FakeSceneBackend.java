@@ -0,0 +1,202 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * FakeSceneBackend, a stand-in for the SceneKit resource and scene API on the JVM.
+ * Loads complete synchronously and only check that the asset exists, every object the scene is built from is counted.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+final class FakeSceneBackend
+    implements SceneBackend<FakeSceneBackend.FakeModel, FakeSceneBackend.FakeTexture, FakeSceneBackend.FakeNode> {
+    private final Set<String> assets;
+    private final List<FakeTexture> textures = new ArrayList<>();
+    private final List<String> failedLoads = new ArrayList<>();
+    private int nodeCount = 0;
+    private int allocations = 0;
+
+    /**
+     * Creates a backend serving the given assets.
+     *
+     * @param assets Asset paths that load successfully, from {@link #listAssets(File)}.
+     */
+    FakeSceneBackend(Set<String> assets) {
+        this.assets = assets;
+    }
+
+    /**
+     * Lists the asset paths under a directory, so the file system is only walked once and not while measuring.
+     *
+     * @param assetsDir Assets directory of the app.
+     * @return Asset paths relative to the directory, with "/" as separator.
+     */
+    static Set<String> listAssets(File assetsDir) {
+        Set<String> assets = new HashSet<>();
+        addAssets(assetsDir, "", assets);
+        return Collections.unmodifiableSet(assets);
+    }
+
+    @Override
+    public void loadModel(String uri, LoadListener<FakeModel> listener) {
+        if (!assets.contains(uri)) {
+            failedLoads.add(uri);
+            listener.onException(new FileNotFoundException(uri));
+            return;
+        }
+        allocations++;
+        listener.onLoaded(new FakeModel());
+    }
+
+    @Override
+    public void loadTexture(String uri, LoadListener<FakeTexture> listener) {
+        if (!assets.contains(uri)) {
+            failedLoads.add(uri);
+            listener.onException(new FileNotFoundException(uri));
+            return;
+        }
+        FakeTexture texture = new FakeTexture();
+        textures.add(texture);
+        allocations++;
+        listener.onLoaded(texture);
+    }
+
+    @Override
+    public void setSkyBoxTexture(FakeTexture texture) {
+        texture.useCount++;
+    }
+
+    @Override
+    public void setDiffuseEnvTexture(FakeTexture texture) {
+        texture.useCount++;
+    }
+
+    @Override
+    public FakeNode createNode(FakeModel model) {
+        nodeCount++;
+        allocations++;
+        return new FakeNode();
+    }
+
+    @Override
+    public void setTransform(FakeNode node, Vec3 position, Vec3 scale) {
+    }
+
+    @Override
+    public void setWorldTransform(FakeNode node, Vec3 worldPosition, Vec3 scale) {
+    }
+
+    @Override
+    public void addBoxCollider(FakeNode node, Vec3 extent) {
+        allocations++;
+    }
+
+    @Override
+    public void addSphereCollider(FakeNode node, float radius) {
+        allocations++;
+    }
+
+    @Override
+    public void addRigidBody(FakeNode node, RigidBodySpec spec) {
+        allocations++;
+    }
+
+    @Override
+    public void addPoint2PointConstraint(FakeNode nodeA, Vec3 pivotA, FakeNode nodeB, Vec3 pivotB) {
+        allocations++;
+    }
+
+    @Override
+    public void addHingeConstraint(FakeNode nodeA, Vec3 pivotA, Vec3 axisA, FakeNode nodeB, Vec3 pivotB,
+        Vec3 axisB, float lowerLimit, float upperLimit) {
+        allocations++;
+    }
+
+    @Override
+    public void release() {
+        textures.clear();
+    }
+
+    /**
+     * Number of models, textures, nodes and components created so far.
+     *
+     * @return Allocation count.
+     */
+    int getAllocations() {
+        return allocations;
+    }
+
+    int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Asset paths of the loads that failed so far.
+     *
+     * @return Failed asset paths, in the order the loads failed.
+     */
+    List<String> getFailedLoads() {
+        return failedLoads;
+    }
+
+    /**
+     * Whether every texture loaded so far has been set on the scene exactly once.
+     *
+     * @return True if no texture was left unused or set twice.
+     */
+    boolean isEveryTextureUsedOnce() {
+        for (FakeTexture texture : textures) {
+            if (texture.useCount != 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addAssets(File dir, String prefix, Set<String> assets) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                addAssets(file, prefix + file.getName() + "/", assets);
+            } else {
+                assets.add(prefix + file.getName());
+            }
+        }
+    }
+
+    static final class FakeModel {
+    }
+
+    static final class FakeTexture {
+        private int useCount = 0;
+    }
+
+    static final class FakeNode {
+    }
+}
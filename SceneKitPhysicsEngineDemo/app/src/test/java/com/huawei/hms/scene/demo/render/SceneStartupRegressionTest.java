@@ -0,0 +1,286 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Runs the startup of the scenes against FakeSceneBackend and compares it with the stored baseline.
+ * Only the scene code is measured: the assets are listed before measuring and the fake loads complete at once.
+ * Startups are timed in batches, each right after a batch of a fixed calibration workload. The gated startup time is
+ * the median percentage of the calibration time, so the baseline does not depend on the speed of the machine.
+ * The allocation count of the fake is deterministic and has to match the baseline exactly.
+ * The threshold for the other metrics is read from the system property "startup.threshold",
+ * set by ./gradlew test -PstartupThreshold=0.5.
+ * ./gradlew test -PupdateStartupBaseline rewrites the baseline with the measured values instead of comparing.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public class SceneStartupRegressionTest {
+    // The relative startup time varies by up to 40% between JVM runs on the same machine, 50% keeps it from flaking.
+    private static final float DEFAULT_THRESHOLD = 0.5f;
+    private static final String BASELINE_RESOURCE = "/startup-baseline.properties";
+    private static final File BASELINE_FILE = new File("src/test/resources/startup-baseline.properties");
+    private static final File ASSETS_DIR = new File("src/main/assets");
+    private static final int CALIBRATION_WARM_UP_BATCHES = 500;
+    private static final int WARM_UP_BATCHES = 100;
+    private static final int MEASURED_BATCHES = 100;
+    private static final int BATCH_SIZE = 20;
+    private static final int CALIBRATION_ITEMS = 64;
+    private static final long PERCENT = 100L;
+
+    private static final Properties BASELINE = new Properties();
+    private static final Map<String, String> MEASURED = new TreeMap<>();
+
+    private static float threshold;
+    private static boolean isUpdatingBaseline;
+    private static Set<String> assets;
+    private static volatile int calibrationSink;
+
+    @BeforeClass
+    public static void loadBaseline() throws IOException {
+        threshold = Float.parseFloat(System.getProperty("startup.threshold", String.valueOf(DEFAULT_THRESHOLD)));
+        isUpdatingBaseline = Boolean.getBoolean("startup.updateBaseline");
+        try (InputStream inputStream = SceneStartupRegressionTest.class.getResourceAsStream(BASELINE_RESOURCE)) {
+            if (inputStream != null) {
+                BASELINE.load(inputStream);
+            }
+        }
+        assets = FakeSceneBackend.listAssets(ASSETS_DIR);
+        for (int batch = 0; batch < CALIBRATION_WARM_UP_BATCHES; batch++) {
+            runCalibration();
+        }
+    }
+
+    @AfterClass
+    public static void storeBaseline() throws IOException {
+        if (!isUpdatingBaseline) {
+            return;
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(BASELINE_FILE), StandardCharsets.UTF_8)) {
+            writer.write("# Measured with FakeSceneBackend by ./gradlew test -PupdateStartupBaseline\n");
+            for (Map.Entry<String, String> metric : MEASURED.entrySet()) {
+                writer.write(metric.getKey() + "=" + metric.getValue() + "\n");
+            }
+        }
+    }
+
+    @Test
+    public void environmentStartupWithinBaseline() {
+        checkScene(SampleScenes.ENVIRONMENT, 0, SampleScenes::environment);
+    }
+
+    @Test
+    public void sampleOneStartupWithinBaseline() {
+        // The ground and four spheres.
+        checkScene(SampleScenes.SAMPLE_ONE, 5, (backend, listener) ->
+            SampleScenes.sampleOne(backend, SettlingProfile.DEFAULT, listener));
+    }
+
+    @Test
+    public void sampleTwoStartupWithinBaseline() {
+        // The ground and two nodes for each constraint.
+        checkScene(SampleScenes.SAMPLE_TWO, 5, (backend, listener) ->
+            SampleScenes.sampleTwo(backend, SettlingProfile.DEFAULT, listener));
+    }
+
+    private interface SceneFactory {
+        SceneStartup<?, ?, ?> create(FakeSceneBackend backend, StartupTracer.Listener listener);
+    }
+
+    private static void checkScene(String sceneName, int nodeCount, SceneFactory factory) {
+        for (int batch = 0; batch < WARM_UP_BATCHES; batch++) {
+            runCalibration();
+            runStartups(factory, nodeCount);
+        }
+        long[] calibrationNanos = new long[MEASURED_BATCHES];
+        long[] startupNanos = new long[MEASURED_BATCHES];
+        long[] startupPercents = new long[MEASURED_BATCHES];
+        long[] allocatedBytes = new long[MEASURED_BATCHES];
+        Map<String, long[]> phaseNanos = new LinkedHashMap<>();
+        int allocations = -1;
+        for (int batch = 0; batch < MEASURED_BATCHES; batch++) {
+            calibrationNanos[batch] = runCalibration();
+            Batch startups = runStartups(factory, nodeCount);
+            startupNanos[batch] = startups.nanos;
+            startupPercents[batch] = PERCENT * startups.nanos / calibrationNanos[batch];
+            allocatedBytes[batch] = startups.allocatedBytes;
+            allocations = startups.allocations;
+            for (Map.Entry<String, Long> phase : startups.tracer.getPhaseNanos().entrySet()) {
+                phaseNanos.computeIfAbsent(phase.getKey(), key -> new long[MEASURED_BATCHES])[batch] =
+                    phase.getValue();
+            }
+        }
+        for (Map.Entry<String, long[]> phase : phaseNanos.entrySet()) {
+            System.out.println(sceneName + " " + phase.getKey() + ": " + median(phase.getValue()) + " ns");
+        }
+        System.out.println(sceneName + " startup: " + median(startupNanos) / BATCH_SIZE + " ns, calibration: "
+            + median(calibrationNanos) / BATCH_SIZE + " ns");
+
+        List<String> regressions = new ArrayList<>();
+        checkExact(sceneName + ".allocations", allocations, regressions);
+        checkWithinThreshold(sceneName + ".startupPercentOfCalibration",
+            median(startupPercents), regressions);
+        if (allocatedBytes[0] >= 0) {
+            checkWithinThreshold(sceneName + ".allocatedBytes", median(allocatedBytes), regressions);
+        }
+        if (!regressions.isEmpty()) {
+            fail("startup regressed: " + regressions);
+        }
+    }
+
+    private static void checkExact(String key, long measured, List<String> regressions) {
+        String baseline = record(key, String.valueOf(measured));
+        if (baseline != null && measured != Long.parseLong(baseline)) {
+            regressions.add(key + " is " + measured + ", baseline " + baseline
+                + ", rerun with -PupdateStartupBaseline if the change is intended");
+        }
+    }
+
+    private static void checkWithinThreshold(String key, long measured, List<String> regressions) {
+        String baseline = record(key, String.valueOf(measured));
+        if (baseline == null) {
+            return;
+        }
+        long limit = (long) (Long.parseLong(baseline) * (1 + threshold));
+        if (measured > limit) {
+            regressions.add(key + " is " + measured + ", baseline " + baseline + ", limit " + limit
+                + " (+" + threshold * PERCENT + "%)");
+        }
+    }
+
+    /**
+     * Records a measured metric for the baseline file.
+     *
+     * @return Baseline value to compare with, null while the baseline is updated.
+     */
+    private static String record(String key, String measured) {
+        System.out.println(key + ": " + measured);
+        MEASURED.put(key, measured);
+        if (isUpdatingBaseline) {
+            return null;
+        }
+        String baseline = BASELINE.getProperty(key);
+        assertNotNull("no baseline for " + key + ", run ./gradlew test -PupdateStartupBaseline", baseline);
+        return baseline;
+    }
+
+    /**
+     * Starts the scene BATCH_SIZE times in a row, the backends are created before and checked after the timing.
+     */
+    private static Batch runStartups(SceneFactory factory, int nodeCount) {
+        List<FakeSceneBackend> backends = new ArrayList<>(BATCH_SIZE);
+        List<SceneStartup<?, ?, ?>> startups = new ArrayList<>(BATCH_SIZE);
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            backends.add(new FakeSceneBackend(assets));
+        }
+        List<StartupTracer> finished = new ArrayList<>(BATCH_SIZE);
+        long allocatedBefore = threadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        for (FakeSceneBackend backend : backends) {
+            SceneStartup<?, ?, ?> startup = factory.create(backend, finished::add);
+            startup.start();
+            startups.add(startup);
+        }
+        long nanos = System.nanoTime() - startNanos;
+        long allocatedAfter = threadAllocatedBytes();
+        assertEquals("finished startups", BATCH_SIZE, finished.size());
+        for (FakeSceneBackend backend : backends) {
+            assertEquals("failed loads", Collections.emptyList(), backend.getFailedLoads());
+            assertEquals("nodes", nodeCount, backend.getNodeCount());
+            assertTrue("every texture is set on the scene once", backend.isEveryTextureUsedOnce());
+        }
+        for (SceneStartup<?, ?, ?> startup : startups) {
+            startup.release();
+        }
+        long allocatedBytes = allocatedBefore < 0 ? -1L : (allocatedAfter - allocatedBefore) / BATCH_SIZE;
+        return new Batch(nanos, finished.get(0), backends.get(0).getAllocations(), allocatedBytes);
+    }
+
+    /**
+     * Times BATCH_SIZE runs of a fixed workload of small allocations and map updates, like a scene startup does.
+     *
+     * @return Duration in nanoseconds.
+     */
+    private static long runCalibration() {
+        long startNanos = System.nanoTime();
+        for (int run = 0; run < BATCH_SIZE; run++) {
+            Map<String, List<float[]>> groups = new LinkedHashMap<>();
+            for (int index = 0; index < CALIBRATION_ITEMS; index++) {
+                groups.computeIfAbsent("group " + index % 8, key -> new ArrayList<>())
+                    .add(new float[] {index, 0f, 0f});
+            }
+            calibrationSink = groups.size();
+        }
+        return System.nanoTime() - startNanos;
+    }
+
+    private static long threadAllocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return -1L;
+        }
+        return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static final class Batch {
+        private final long nanos;
+        private final StartupTracer tracer;
+        private final int allocations;
+        private final long allocatedBytes;
+
+        Batch(long nanos, StartupTracer tracer, int allocations, long allocatedBytes) {
+            this.nanos = nanos;
+            this.tracer = tracer;
+            this.allocations = allocations;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
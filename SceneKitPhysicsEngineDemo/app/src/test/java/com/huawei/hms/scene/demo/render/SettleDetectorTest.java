@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SettleDetectorTest.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public class SettleDetectorTest {
+    private static final long FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(16);
+
+    @Test
+    public void settlesWhenBodyStopsFalling() {
+        SettleDetector detector = new SettleDetector();
+        long frameTimeNanos = 0L;
+        for (float height = 10f; height > 0f; height -= 0.5f) {
+            assertFalse(detector.onFrame(frameTimeNanos, Collections.singletonList(new Vec3(0f, height, 0f))));
+            frameTimeNanos += FRAME_NANOS;
+        }
+        boolean isDone = false;
+        while (!isDone) {
+            isDone = detector.onFrame(frameTimeNanos, Collections.singletonList(Vec3.ZERO));
+            frameTimeNanos += FRAME_NANOS;
+        }
+
+        // The body falls for 20 frames and rests from the 20th frame on.
+        assertEquals(20 * FRAME_NANOS, detector.getSettleNanos());
+    }
+
+    @Test
+    public void doesNotSettleWithoutMotion() {
+        SettleDetector detector = new SettleDetector();
+        long frameTimeNanos = 0L;
+        boolean isDone = false;
+        while (!isDone) {
+            isDone = detector.onFrame(frameTimeNanos, Collections.singletonList(Vec3.UP));
+            frameTimeNanos += FRAME_NANOS;
+        }
+
+        // Identical positions from the first frame on are not taken as bodies at rest.
+        assertTrue(frameTimeNanos > SettleDetector.TIMEOUT_NANOS);
+        assertEquals(-1L, detector.getSettleNanos());
+    }
+
+    @Test
+    public void givesUpWhenBodyKeepsMoving() {
+        SettleDetector detector = new SettleDetector();
+        long frameTimeNanos = 0L;
+        boolean isDone = false;
+        for (int frame = 0; !isDone; frame++) {
+            float offset = frame % 2 == 0 ? 0f : 1f;
+            isDone = detector.onFrame(frameTimeNanos, Collections.singletonList(new Vec3(offset, 0f, 0f)));
+            frameTimeNanos += FRAME_NANOS;
+        }
+
+        assertTrue(frameTimeNanos > SettleDetector.TIMEOUT_NANOS);
+        assertEquals(-1L, detector.getSettleNanos());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/**
+ * SettlingProfileTest.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public class SettlingProfileTest {
+    @Test
+    public void defaultKeepsTheSampleParameters() {
+        assertEquals(SettlingProfile.ORIGINAL, SettlingProfile.DEFAULT);
+        assertEquals(10f, SettlingProfile.DEFAULT.getFriction(10f), 0f);
+        assertEquals(1f, SettlingProfile.DEFAULT.getGroundRestitution(1f), 0f);
+
+        RigidBodySpec unset = SettlingProfile.DEFAULT.applyDamping(RigidBodySpec.builder()).build();
+        assertNull(unset.getLinearDamping());
+        assertNull(unset.getAngularDamping());
+
+        RigidBodySpec zero = SettlingProfile.DEFAULT.applyDamping(RigidBodySpec.builder()
+            .setLinearDamping(0f)
+            .setAngularDamping(0f)).build();
+        assertEquals(0f, zero.getLinearDamping(), 0f);
+        assertEquals(0f, zero.getAngularDamping(), 0f);
+    }
+
+    @Test
+    public void dampedProfileOverridesTheSampleParameters() {
+        assertEquals(1f, SettlingProfile.FAST_SETTLE.getFriction(10f), 0f);
+        assertEquals(0.5f, SettlingProfile.FAST_SETTLE.getGroundRestitution(1f), 0f);
+
+        RigidBodySpec spec = SettlingProfile.FAST_SETTLE.applyDamping(RigidBodySpec.builder()
+            .setLinearDamping(0f)
+            .setAngularDamping(0f)).build();
+        assertEquals(0.1f, spec.getLinearDamping(), 0f);
+        assertEquals(0.3f, spec.getAngularDamping(), 0f);
+    }
+}
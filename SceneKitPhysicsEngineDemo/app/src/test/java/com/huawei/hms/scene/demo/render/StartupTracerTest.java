@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 Huawei Technologies Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.huawei.hms.scene.demo.render;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StartupTracerTest.
+ *
+ * @author HUAWEI.
+ * @since 2021-8-18
+ */
+public class StartupTracerTest {
+    @Test
+    public void finishesOnceAllPhasesEndedOrSkipped() {
+        List<StartupTracer> finished = new ArrayList<>();
+        StartupTracer tracer = new StartupTracer("scene", finished::add, "load", "build", "texture");
+        tracer.begin("load");
+        tracer.begin("texture");
+        tracer.end("load");
+        tracer.skip("build");
+        assertFalse(tracer.isFinished());
+        assertTrue(finished.isEmpty());
+
+        tracer.end("texture");
+        assertTrue(tracer.isFinished());
+        assertEquals(1, finished.size());
+        assertEquals(2, tracer.getPhaseNanos().size());
+        assertTrue(tracer.getTotalNanos() >= tracer.getPhaseNanos().get("load"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsUnknownPhase() {
+        new StartupTracer("scene", tracer -> { }, "load").begin("build");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsEndWithoutBegin() {
+        new StartupTracer("scene", tracer -> { }, "load").end("load");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDuplicatePhases() {
+        new StartupTracer("scene", tracer -> { }, "load", "load");
+    }
+}